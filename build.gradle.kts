@@ -21,12 +21,34 @@ dependencyManagement {
     }
 }
 
+// load test source set (src/loadTest), unit tests for it live in src/test
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+    test {
+        compileClasspath += sourceSets["loadTest"].output
+        runtimeClasspath += sourceSets["loadTest"].output
+    }
+}
+configurations.getByName("loadTestImplementation") {
+    extendsFrom(configurations.implementation.get())
+}
+configurations.getByName("loadTestRuntimeOnly") {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+configurations.testImplementation {
+    extendsFrom(configurations.getByName("loadTestImplementation"))
+}
+
 dependencies {
     implementation(libs.spring.boot.starter.web)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadTestImplementation"(libs.hdr.histogram)
 }
 
 // about source and compilation
@@ -50,3 +72,12 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+// load test tasks
+// ex) ./gradlew loadTest -PloadTestArgs="target=http rate=200 duration=60 users=1000 zipf=1.1"
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the open-loop load generator against PointController or DefaultPointService."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadtest.LoadTestRunner")
+    args = (project.findProperty("loadTestArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
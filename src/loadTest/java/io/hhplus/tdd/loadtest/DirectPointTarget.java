@@ -0,0 +1,59 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DefaultPointService;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.audit.PointAuditLog;
+import io.hhplus.tdd.point.audit.PointAuditProperties;
+
+/**
+ * Spring 컨텍스트 없이 DefaultPointService 를 직접 호출한다.
+ * HTTP, 직렬화 비용을 제외한 서비스 자체의 지연시간을 측정할 때 사용한다.
+ */
+class DirectPointTarget implements PointTarget {
+
+    private final PointAuditLog auditLog;
+    private final PointService pointService;
+
+    DirectPointTarget() {
+        this.auditLog = new PointAuditLog(PointAuditProperties.defaults());
+        this.auditLog.start();
+        this.pointService = new DefaultPointService(new UserPointTable(), new PointHistoryTable(), auditLog);
+    }
+
+    @Override
+    public boolean charge(long userId, long amount) {
+        try {
+            pointService.charge(userId, amount);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean use(long userId, long amount) {
+        try {
+            pointService.use(userId, amount);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean read(long userId) {
+        pointService.getPointByUserId(userId);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            auditLog.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.TddApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 로컬 HTTP 로 PointController 를 호출한다.
+ * baseUrl 이 없으면 TddApplication 을 임의의 포트로 같은 JVM 에서 띄운다.
+ */
+class HttpPointTarget implements PointTarget {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    HttpPointTarget(String baseUrl) {
+        if (baseUrl == null) {
+            this.context = SpringApplication.run(TddApplication.class, "--server.port=0");
+            this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        } else {
+            this.context = null;
+            this.baseUrl = baseUrl;
+        }
+    }
+
+    @Override
+    public boolean charge(long userId, long amount) {
+        return send(patch("/point/" + userId + "/charge", amount));
+    }
+
+    @Override
+    public boolean use(long userId, long amount) {
+        return send(patch("/point/" + userId + "/use", amount));
+    }
+
+    @Override
+    public boolean read(long userId) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build());
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private HttpRequest patch(String path, long amount) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                .build();
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 프로파일
+ * 실행 인자는 key=value 형식이며, 지정하지 않은 값은 기본값을 사용한다.
+ *
+ * @param target         direct(DefaultPointService 직접 호출) 또는 http(PointController)
+ * @param baseUrl        http 대상 주소. 없으면 애플리케이션을 같은 JVM 에서 띄운다.
+ * @param rate           초당 요청 수 (open-loop, 응답과 무관하게 일정한 속도로 요청)
+ * @param arrival        요청 간격 분포 (uniform, poisson)
+ * @param duration       측정 시간
+ * @param warmup         측정 전 워밍업 시간 (결과에서 제외)
+ * @param users          userId 범위 (1 ~ users)
+ * @param zipf           hot user 편중 정도 (0 이면 균등 분포)
+ * @param chargeWeight   충전 요청 비율
+ * @param useWeight      사용 요청 비율
+ * @param readWeight     조회 요청 비율
+ * @param minAmount      충전/사용 금액 최솟값
+ * @param maxAmount      충전/사용 금액 최댓값
+ * @param workers        요청을 보내는 워커 스레드 수 (모두 바쁘면 요청은 큐에서 기다린다)
+ * @param reportInterval 중간 결과 출력 주기
+ * @param drainTimeout   측정이 끝난 뒤 남은 요청을 기다리는 시간 (초과하면 결과가 불완전한 것으로 본다)
+ * @param histogramLog   구간별 히스토그램을 기록할 HdrHistogram 로그 파일 경로 (선택)
+ */
+public record LoadProfile(
+        Target target,
+        String baseUrl,
+        double rate,
+        Arrival arrival,
+        Duration duration,
+        Duration warmup,
+        int users,
+        double zipf,
+        int chargeWeight,
+        int useWeight,
+        int readWeight,
+        long minAmount,
+        long maxAmount,
+        int workers,
+        Duration reportInterval,
+        Duration drainTimeout,
+        String histogramLog
+) {
+
+    private static final Set<String> KEYS = Set.of(
+            "target", "baseUrl", "rate", "arrival", "duration", "warmup", "users", "zipf",
+            "mix", "amount", "workers", "reportInterval", "drainTimeout", "histogramLog"
+    );
+
+    public enum Target {
+        DIRECT,
+        HTTP
+    }
+
+    public enum Arrival {
+        UNIFORM,
+        POISSON
+    }
+
+    public LoadProfile {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate 는 0 보다 커야 합니다.");
+        }
+        if (users <= 0) {
+            throw new IllegalArgumentException("users 는 0 보다 커야 합니다.");
+        }
+        if (!isPositive(duration)) {
+            throw new IllegalArgumentException("duration 은 0 보다 커야 합니다.");
+        }
+        if (warmup == null || warmup.isNegative()) {
+            throw new IllegalArgumentException("warmup 은 0 이상이어야 합니다.");
+        }
+        if (!isPositive(reportInterval)) {
+            throw new IllegalArgumentException("reportInterval 은 0 보다 커야 합니다.");
+        }
+        if (!isPositive(drainTimeout)) {
+            throw new IllegalArgumentException("drainTimeout 은 0 보다 커야 합니다.");
+        }
+        if (chargeWeight < 0 || useWeight < 0 || readWeight < 0 || chargeWeight + useWeight + readWeight == 0) {
+            throw new IllegalArgumentException("mix 는 0 이상이어야 하며, 합이 0 보다 커야 합니다.");
+        }
+        if (minAmount <= 0 || minAmount > maxAmount) {
+            throw new IllegalArgumentException("amount 범위가 올바르지 않습니다.");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers 는 0 보다 커야 합니다.");
+        }
+    }
+
+    /**
+     * ex) target=http rate=200 duration=60 warmup=10 users=1000 zipf=1.1 mix=40:20:40 amount=1-1000
+     */
+    public static LoadProfile parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length != 2 || !KEYS.contains(pair[0])) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: " + arg);
+            }
+            values.put(pair[0], pair[1]);
+        }
+
+        String[] mix = values.getOrDefault("mix", "40:20:40").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("mix 는 charge:use:read 형식이어야 합니다.");
+        }
+        String[] amount = values.getOrDefault("amount", "1-1000").split("-");
+        if (amount.length != 2) {
+            throw new IllegalArgumentException("amount 는 min-max 형식이어야 합니다.");
+        }
+
+        return new LoadProfile(
+                Target.valueOf(values.getOrDefault("target", "direct").toUpperCase()),
+                values.get("baseUrl"),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                Arrival.valueOf(values.getOrDefault("arrival", "poisson").toUpperCase()),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Double.parseDouble(values.getOrDefault("zipf", "0.99")),
+                Integer.parseInt(mix[0]),
+                Integer.parseInt(mix[1]),
+                Integer.parseInt(mix[2]),
+                Long.parseLong(amount[0]),
+                Long.parseLong(amount[1]),
+                Integer.parseInt(values.getOrDefault("workers", "500")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("reportInterval", "5"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("drainTimeout", "120"))),
+                values.get("histogramLog")
+        );
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+    public Operation pickOperation(double random) {
+        double point = random * (chargeWeight + useWeight + readWeight);
+        if (point < chargeWeight) {
+            return Operation.CHARGE;
+        }
+        if (point < chargeWeight + useWeight) {
+            return Operation.USE;
+        }
+        return Operation.READ;
+    }
+}
@@ -0,0 +1,220 @@
+package io.hhplus.tdd.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop 부하 생성기
+ * 1. 응답을 기다리지 않고 프로파일의 rate 대로 요청 시각을 정하고 요청을 보낸다.
+ * 2. 지연시간은 실제 요청 시각이 아니라 의도한 요청 시각부터 측정한다. (coordinated omission 보정)
+ *    서버가 느려져서 요청이 밀려도 밀린 시간까지 지연시간에 포함된다.
+ *    워커가 모두 바쁘면 요청은 버려지지 않고 큐에서 기다리며, 기다린 시간도 지연시간에 포함된다.
+ * 3. 워밍업 구간에 의도된 요청은 결과에서 제외한다.
+ * 4. 제한 시간 안에 끝나지 않은 요청이 있으면 결과가 불완전하므로 종료 코드 1로 끝난다.
+ *
+ * ex) ./gradlew loadTest -PloadTestArgs="target=direct rate=50 duration=60 users=100 zipf=1.2 mix=40:20:40"
+ */
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final LoadProfile profile;
+    private final PointTarget target;
+    private final ZipfianUserPicker userPicker;
+    private final Map<Operation, OperationStats> statsByOperation = new EnumMap<>(Operation.class);
+
+    public LoadTestRunner(LoadProfile profile, PointTarget target) {
+        this.profile = profile;
+        this.target = target;
+        this.userPicker = new ZipfianUserPicker(profile.users(), profile.zipf());
+        for (Operation operation : Operation.values()) {
+            statsByOperation.put(operation, new OperationStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        log.info("load profile: {}", profile);
+        boolean completed;
+        try (PointTarget target = createTarget(profile)) {
+            completed = new LoadTestRunner(profile, target).run();
+        }
+        if (!completed) {
+            log.error("끝나지 않은 요청이 있어 결과가 불완전합니다.");
+            System.exit(1);
+        }
+    }
+
+    private static PointTarget createTarget(LoadProfile profile) {
+        return switch (profile.target()) {
+            case DIRECT -> new DirectPointTarget();
+            case HTTP -> new HttpPointTarget(profile.baseUrl());
+        };
+    }
+
+    /**
+     * @return 모든 요청이 제한 시간 안에 끝났으면 true
+     */
+    public boolean run() throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(profile.workers(), profile.workers(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        HistogramLogWriter histogramLogWriter = createHistogramLogWriter();
+
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + profile.warmup().toNanos();
+        long endNanos = measureStartNanos + profile.duration().toNanos();
+        long reportIntervalMillis = profile.reportInterval().toMillis();
+        reporter.scheduleAtFixedRate(() -> report(histogramLogWriter),
+                reportIntervalMillis, reportIntervalMillis, TimeUnit.MILLISECONDS);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intendedStartNanos = startNanos;
+        while (intendedStartNanos < endNanos) {
+            parkUntil(intendedStartNanos);
+            Operation operation = profile.pickOperation(random.nextDouble());
+            long userId = userPicker.next();
+            long amount = random.nextLong(profile.minAmount(), profile.maxAmount() + 1);
+            long scheduledNanos = intendedStartNanos;
+            boolean measured = scheduledNanos >= measureStartNanos;
+            OperationStats stats = statsByOperation.get(operation);
+            stats.scheduled();
+            workers.execute(() -> execute(stats, userId, amount, scheduledNanos, measured));
+            intendedStartNanos += nextIntervalNanos();
+        }
+
+        workers.shutdown();
+        boolean completed = workers.awaitTermination(profile.drainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (!completed) {
+            log.warn("{}초 안에 끝나지 않은 요청이 {}건 있습니다. 결과에서 제외됩니다.",
+                    profile.drainTimeout().toSeconds(), statsByOperation.values().stream().mapToLong(OperationStats::pending).sum());
+            workers.shutdownNow();
+        }
+        reporter.shutdown();
+        reporter.awaitTermination(profile.drainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        report(histogramLogWriter);
+        if (histogramLogWriter != null) {
+            histogramLogWriter.close();
+        }
+        summarize();
+        return completed;
+    }
+
+    OperationStats stats(Operation operation) {
+        return statsByOperation.get(operation);
+    }
+
+    private void execute(OperationStats stats, long userId, long amount, long intendedStartNanos, boolean measured) {
+        long actualStartNanos = System.nanoTime();
+        try {
+            boolean success = switch (stats.operation()) {
+                case CHARGE -> target.charge(userId, amount);
+                case USE -> target.use(userId, amount);
+                case READ -> target.read(userId);
+            };
+            if (measured) {
+                stats.record(intendedStartNanos, actualStartNanos, System.nanoTime(), success);
+            }
+        } catch (RuntimeException e) {
+            if (measured) {
+                stats.recordError(intendedStartNanos, actualStartNanos, System.nanoTime());
+            }
+            log.debug("{} 요청 실패 userId={}", stats.operation(), userId, e);
+        } finally {
+            stats.finished();
+        }
+    }
+
+    private long nextIntervalNanos() {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.rate();
+        if (profile.arrival() == LoadProfile.Arrival.UNIFORM) {
+            return Math.max(1L, (long) meanIntervalNanos);
+        }
+        // 포아송 도착: 요청 간격이 지수 분포를 따른다.
+        double u = ThreadLocalRandom.current().nextDouble();
+        return Math.max(1L, (long) (-Math.log(1.0 - u) * meanIntervalNanos));
+    }
+
+    private void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private HistogramLogWriter createHistogramLogWriter() {
+        if (profile.histogramLog() == null) {
+            return null;
+        }
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(profile.histogramLog());
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(System.currentTimeMillis());
+            writer.outputLegend();
+            return writer;
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void report(HistogramLogWriter histogramLogWriter) {
+        for (OperationStats stats : statsByOperation.values()) {
+            Histogram interval = stats.collectInterval();
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            if (histogramLogWriter != null) {
+                histogramLogWriter.outputIntervalHistogram(interval);
+            }
+            log.info("[{}] count={}, p50={}ms, p99={}ms, max={}ms, pending={}",
+                    stats.operation(),
+                    interval.getTotalCount(),
+                    millis(interval.getValueAtPercentile(50)),
+                    millis(interval.getValueAtPercentile(99)),
+                    millis(interval.getMaxValue()),
+                    stats.pending());
+        }
+    }
+
+    private void summarize() {
+        double seconds = profile.duration().toMillis() / 1_000.0;
+        StringBuilder summary = new StringBuilder("\n")
+                .append(String.format("%-7s %9s %9s %9s %7s %10s  %-42s  %-42s%n",
+                        "op", "count", "ok", "failed", "errors", "ops/s",
+                        "response time ms (p50/p90/p99/p99.9/max)", "service time ms (p50/p90/p99/p99.9/max)"));
+        for (OperationStats stats : statsByOperation.values()) {
+            long count = stats.responseTime().getTotalCount();
+            summary.append(String.format("%-7s %9d %9d %9d %7d %10.1f  %-42s  %-42s%n",
+                    stats.operation(), count, stats.succeeded(), stats.failed(), stats.errors(), count / seconds,
+                    percentiles(stats.responseTime()), percentiles(stats.serviceTime())));
+        }
+        log.info("load test result{}", summary);
+    }
+
+    private static String percentiles(Histogram histogram) {
+        return String.format("%.1f/%.1f/%.1f/%.1f/%.1f",
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
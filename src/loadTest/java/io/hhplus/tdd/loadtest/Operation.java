@@ -0,0 +1,7 @@
+package io.hhplus.tdd.loadtest;
+
+public enum Operation {
+    CHARGE,
+    USE,
+    READ
+}
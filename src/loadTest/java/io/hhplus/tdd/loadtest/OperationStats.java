@@ -0,0 +1,97 @@
+package io.hhplus.tdd.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 측정 결과
+ * responseTime: 의도한 요청 시각부터 응답까지 (coordinated omission 보정)
+ * serviceTime: 실제 요청 시각부터 응답까지
+ */
+class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Operation operation;
+    private final Recorder responseTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram responseTime = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    // 요청 시각이 되었지만 아직 끝나지 않은 요청 수 (큐 대기 + 처리 중, 워밍업 포함)
+    private final LongAdder pending = new LongAdder();
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    void scheduled() {
+        pending.increment();
+    }
+
+    void finished() {
+        pending.decrement();
+    }
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, boolean success) {
+        responseTimeRecorder.recordValue((endNanos - intendedStartNanos) / 1_000);
+        serviceTimeRecorder.recordValue((endNanos - actualStartNanos) / 1_000);
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    void recordError(long intendedStartNanos, long actualStartNanos, long endNanos) {
+        responseTimeRecorder.recordValue((endNanos - intendedStartNanos) / 1_000);
+        serviceTimeRecorder.recordValue((endNanos - actualStartNanos) / 1_000);
+        errors.increment();
+    }
+
+    /**
+     * 마지막 호출 이후 구간의 응답시간 히스토그램을 반환하고, 누적 결과에 더한다.
+     * 리포터 스레드와 (리포터 종료 후) 실행 스레드에서 호출되므로, 호출하는 쪽에서 동시에 호출되지 않도록 해야 한다.
+     * (LoadTestRunner.report 가 synchronized)
+     */
+    Histogram collectInterval() {
+        Histogram interval = responseTimeRecorder.getIntervalHistogram();
+        interval.setTag(operation.name());
+        responseTime.add(interval);
+        serviceTime.add(serviceTimeRecorder.getIntervalHistogram());
+        return interval;
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long pending() {
+        return pending.sum();
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.loadtest;
+
+/**
+ * 부하를 보낼 대상
+ * 요청이 정책상 거절(잔액 부족 등)되거나 실패하면 false 를 반환한다.
+ */
+public interface PointTarget extends AutoCloseable {
+
+    boolean charge(long userId, long amount);
+
+    boolean use(long userId, long amount);
+
+    boolean read(long userId);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1 ~ userCount 사이의 userId 를 Zipf 분포로 선택한다.
+ * exponent 가 0 이면 균등 분포, 클수록 userId=1 에 요청이 몰린다. (hot user)
+ */
+class ZipfianUserPicker {
+
+    private final double[] cumulative;
+
+    ZipfianUserPicker(int userCount, double exponent) {
+        if (userCount <= 0) {
+            throw new IllegalArgumentException("userCount 는 1 이상이어야 합니다.");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent 는 0 이상이어야 합니다.");
+        }
+        cumulative = new double[userCount];
+        double sum = 0;
+        for (int rank = 1; rank <= userCount; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < userCount; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    long next() {
+        return pick(ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * 누적 확률 u (0.0 이상 1.0 미만) 에 해당하는 userId
+     */
+    long pick(double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1L;
+    }
+}
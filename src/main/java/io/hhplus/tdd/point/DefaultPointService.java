@@ -2,8 +2,7 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.hhplus.tdd.point.audit.PointAuditLog;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,22 +11,28 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static io.hhplus.tdd.point.audit.PointAuditEvent.FAILED;
+import static io.hhplus.tdd.point.audit.PointAuditEvent.LOCK_ACQUIRED;
+import static io.hhplus.tdd.point.audit.PointAuditEvent.LOCK_RELEASED;
+import static io.hhplus.tdd.point.audit.PointAuditEvent.LOCK_REQUESTED;
+
 @Service
 public class DefaultPointService implements PointService {
 
-    private static final Logger log = LoggerFactory.getLogger(DefaultPointService.class);
-
     private final Map<Long, Lock> lockByUserId = new ConcurrentHashMap<>();
 
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    private final PointAuditLog auditLog;
 
     public DefaultPointService(
             UserPointTable userPointTable,
-            PointHistoryTable pointHistoryTable
+            PointHistoryTable pointHistoryTable,
+            PointAuditLog auditLog
     ) {
         this.userPointTable = userPointTable;
         this.pointHistoryTable = pointHistoryTable;
+        this.auditLog = auditLog;
     }
 
     @Override
@@ -48,10 +53,16 @@ public class DefaultPointService implements PointService {
      */
     public UserPoint charge(long userId, long amount) {
         UserPoint savedUserPoint;
-        log.info("charge Lock 요청... userId={}, amount={}", userId, amount);
+        // Lock 대기/점유 시간을 볼 수 있도록 요청/획득/해제 이벤트는 호출 단위로 함께 샘플링한다.
+        boolean traced = auditLog.sample(LOCK_REQUESTED);
+        if (traced) {
+            auditLog.record(LOCK_REQUESTED, TransactionType.CHARGE, userId, amount);
+        }
         Lock lock = lockByUserId.computeIfAbsent(userId, k -> new ReentrantLock(true));
         lock.lock();
-        log.info("charge Lock 획득! userId={}, amount={}", userId, amount);
+        if (traced) {
+            auditLog.record(LOCK_ACQUIRED, TransactionType.CHARGE, userId, amount);
+        }
         try {
             // 주의: 조회를 하는 부분까지 Lock을 걸어야 한다.
             // 충전에만 Lock을 걸면 +100을 두 번해도 결과가 +100이 되는 문제가 발생할 수 있다. 조회시점의 데이터가 동일하기 때문이다.
@@ -60,8 +71,15 @@ public class DefaultPointService implements PointService {
 
             savedUserPoint = userPointTable.insertOrUpdate(userId, amountToSave);
             pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            if (auditLog.sample(FAILED)) {
+                auditLog.record(FAILED, TransactionType.CHARGE, userId, amount);
+            }
+            throw e;
         } finally {
-            log.info("charge Lock 해제! userId={}, amount={}", userId, amount);
+            if (traced) {
+                auditLog.record(LOCK_RELEASED, TransactionType.CHARGE, userId, amount);
+            }
             lock.unlock();
         }
 
@@ -76,18 +94,30 @@ public class DefaultPointService implements PointService {
     @Override
     public UserPoint use(long userId, long amount) {
         UserPoint savedUserPoint;
-        log.info("use Lock 요청... userId={}, amount={}", userId, amount);
+        boolean traced = auditLog.sample(LOCK_REQUESTED);
+        if (traced) {
+            auditLog.record(LOCK_REQUESTED, TransactionType.USE, userId, amount);
+        }
         Lock lock = lockByUserId.computeIfAbsent(userId, k -> new ReentrantLock(true));
         lock.lock();
-        log.info("use Lock 획득! userId={}, amount={}", userId, amount);
+        if (traced) {
+            auditLog.record(LOCK_ACQUIRED, TransactionType.USE, userId, amount);
+        }
         try {
             UserPoint userPoint = userPointTable.selectById(userId);
             long amountToSave = userPoint.minusPoint(amount);
 
             savedUserPoint = userPointTable.insertOrUpdate(userId, amountToSave);
             pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            if (auditLog.sample(FAILED)) {
+                auditLog.record(FAILED, TransactionType.USE, userId, amount);
+            }
+            throw e;
         } finally {
-            log.info("use Lock 해제! userId={}, amount={}", userId, amount);
+            if (traced) {
+                auditLog.record(LOCK_RELEASED, TransactionType.USE, userId, amount);
+            }
             lock.unlock();
         }
 
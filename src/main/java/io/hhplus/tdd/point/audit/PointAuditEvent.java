@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.audit;
+
+/**
+ * 포인트 충전/사용 과정에서 기록되는 감사(audit) 이벤트 종류
+ */
+public enum PointAuditEvent {
+    LOCK_REQUESTED("Lock 요청..."),
+    LOCK_ACQUIRED("Lock 획득!"),
+    LOCK_RELEASED("Lock 해제!"),
+    FAILED("처리 실패!");
+
+    private final String description;
+
+    PointAuditEvent(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.audit;
+
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 충전/사용 hot path 에서 사용하는 감사 로그
+ * 1. 이벤트는 미리 할당한 링 버퍼(primitive 배열)에 기록하므로 boxing, 문자열 포맷팅이 발생하지 않는다.
+ * 2. 호출하는 쪽에서 sample() 로 이벤트 종류별 샘플링 여부를 정하고, 샘플링된 이벤트만 record() 로 기록한다.
+ *    Lock 요청/획득/해제처럼 함께 봐야 하는 이벤트는 한 번만 sample() 하고 그 결과를 재사용한다.
+ * 3. 백그라운드 스레드가 링 버퍼를 비우면서 로그로 남긴다.
+ * 4. 버퍼가 가득 차면 요청 스레드를 막지 않고 이벤트를 버린다. (dropped 로 집계)
+ */
+@Component
+public class PointAuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAuditLog.class);
+
+    private static final PointAuditEvent[] EVENTS = PointAuditEvent.values();
+    private static final TransactionType[] TYPES = TransactionType.values();
+    // 버퍼가 비어있으면 대기 시간을 두 배씩 늘려서 트래픽이 없을 때 불필요하게 깨어나지 않도록 한다.
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final double[] sampleRates;
+
+    private final long[] userIds;
+    private final long[] amounts;
+    private final long[] timestamps;
+    private final byte[] events;
+    private final byte[] types;
+    // 슬롯에 기록이 끝난 시퀀스 + 1 (0 은 아직 기록되지 않은 슬롯)
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread drainer;
+    // 마지막으로 경고를 남긴 시점의 dropped 누적값 (drainer 스레드, stop() 에서만 접근)
+    private long reportedDroppedCount;
+
+    public PointAuditLog(PointAuditProperties properties) {
+        this.capacity = ceilingPowerOfTwo(properties.capacity());
+        this.mask = capacity - 1;
+        this.sampleRates = new double[EVENTS.length];
+        for (PointAuditEvent event : EVENTS) {
+            sampleRates[event.ordinal()] = properties.sampling().rateOf(event);
+        }
+        this.userIds = new long[capacity];
+        this.amounts = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.events = new byte[capacity];
+        this.types = new byte[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 이벤트 종류의 샘플링 비율에 따라 기록할지 결정한다.
+     */
+    public boolean sample(PointAuditEvent event) {
+        double rate = sampleRates[event.ordinal()];
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * hot path 에서 호출한다. 객체를 할당하지 않는다.
+     * 샘플링하지 않고 그대로 기록하므로, 필요하면 먼저 sample() 로 기록 여부를 정한다.
+     */
+    public void record(PointAuditEvent event, TransactionType type, long userId, long amount) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head.get() >= capacity) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+
+        int index = (int) seq & mask;
+        userIds[index] = userId;
+        amounts[index] = amount;
+        timestamps[index] = System.currentTimeMillis();
+        events[index] = (byte) event.ordinal();
+        types[index] = (byte) type.ordinal();
+        published.set(index, seq + 1);
+    }
+
+    /**
+     * 기록이 끝난 이벤트를 순서대로 sink 에 전달하고, 전달한 개수를 반환한다.
+     * 단일 스레드(백그라운드 스레드 또는 테스트)에서만 호출해야 한다.
+     */
+    public int drain(PointAuditSink sink) {
+        int count = 0;
+        long seq = head.get();
+        while (true) {
+            int index = (int) seq & mask;
+            if (published.get(index) != seq + 1) {
+                return count;
+            }
+            sink.write(EVENTS[events[index]], TYPES[types[index]], userIds[index], amounts[index], timestamps[index]);
+            seq++;
+            head.set(seq);
+            count++;
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        drainer = new Thread(this::drainLoop, "point-audit-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            LockSupport.unpark(drainer);
+            drainer.join();
+        }
+        drain(PointAuditLog::writeToLog);
+        warnIfDropped();
+    }
+
+    private void drainLoop() {
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+        while (running) {
+            if (drain(PointAuditLog::writeToLog) > 0) {
+                idleParkNanos = MIN_IDLE_PARK_NANOS;
+            } else {
+                LockSupport.parkNanos(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+            }
+            warnIfDropped();
+        }
+    }
+
+    private void warnIfDropped() {
+        long droppedCount = dropped.get();
+        if (droppedCount > reportedDroppedCount) {
+            log.warn("감사 로그 버퍼가 가득 차서 이벤트가 유실되었습니다. 유실={}, 누적={}, capacity={}",
+                    droppedCount - reportedDroppedCount, droppedCount, capacity);
+            reportedDroppedCount = droppedCount;
+        }
+    }
+
+    private static void writeToLog(PointAuditEvent event, TransactionType type, long userId, long amount, long timestampMillis) {
+        log.info("{} {} userId={}, amount={}, at={}",
+                type.name().toLowerCase(), event.description(), userId, amount, timestampMillis);
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+}
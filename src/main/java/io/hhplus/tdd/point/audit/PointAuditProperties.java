@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 감사 로그 설정 (point.audit.*)
+ * 설정하지 않은 값은 아래 기본값을 사용한다.
+ *
+ * @param capacity 링 버퍼 크기 (1 ~ 2^30, 2의 거듭제곱으로 올림된다, 기본 8192)
+ * @param sampling 이벤트 종류별 샘플링 비율 (0.0 ~ 1.0)
+ */
+@ConfigurationProperties("point.audit")
+public record PointAuditProperties(
+        Integer capacity,
+        Sampling sampling
+) {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    public PointAuditProperties {
+        capacity = capacity == null ? 8192 : capacity;
+        sampling = sampling == null ? Sampling.defaults() : sampling;
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity 는 1 이상 " + MAX_CAPACITY + " 이하여야 합니다. capacity=" + capacity);
+        }
+    }
+
+    public static PointAuditProperties defaults() {
+        return new PointAuditProperties(null, null);
+    }
+
+    /**
+     * 기본값: 실패는 모두 기록하고, Lock 추적은 1%만 기록한다.
+     *
+     * @param lock   Lock 요청/획득/해제 추적 비율. 호출 단위로 한 번 결정하므로, 추적하는 호출은 세 이벤트가 모두 기록된다.
+     * @param failed 실패 이벤트 비율
+     */
+    public record Sampling(
+            Double lock,
+            Double failed
+    ) {
+
+        public Sampling {
+            lock = lock == null ? 0.01 : lock;
+            failed = failed == null ? 1.0 : failed;
+            validateRate("lock", lock);
+            validateRate("failed", failed);
+        }
+
+        public static Sampling defaults() {
+            return new Sampling(null, null);
+        }
+
+        public double rateOf(PointAuditEvent event) {
+            return switch (event) {
+                case LOCK_REQUESTED, LOCK_ACQUIRED, LOCK_RELEASED -> lock;
+                case FAILED -> failed;
+            };
+        }
+
+        private static void validateRate(String name, double rate) {
+            if (!(rate >= 0.0 && rate <= 1.0)) {
+                throw new IllegalArgumentException(name + " 샘플링 비율은 0.0 이상 1.0 이하여야 합니다. rate=" + rate);
+            }
+        }
+    }
+}
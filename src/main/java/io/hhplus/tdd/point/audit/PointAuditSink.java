@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.audit;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 링 버퍼에서 꺼낸 이벤트를 기록하는 대상 (로그, 파일 등)
+ * 백그라운드 스레드에서만 호출된다.
+ */
+@FunctionalInterface
+public interface PointAuditSink {
+    void write(PointAuditEvent event, TransactionType type, long userId, long amount, long timestampMillis);
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadProfileTest {
+
+    @DisplayName("인자가 없으면 기본 프로파일을 사용해야 한다.")
+    @Test
+    void parseDefaults() {
+        LoadProfile profile = LoadProfile.parse(new String[0]);
+
+        assertThat(profile.target()).isEqualTo(LoadProfile.Target.DIRECT);
+        assertThat(profile.baseUrl()).isNull();
+        assertThat(profile.rate()).isEqualTo(100.0);
+        assertThat(profile.arrival()).isEqualTo(LoadProfile.Arrival.POISSON);
+        assertThat(profile.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(profile.warmup()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(profile.users()).isEqualTo(1000);
+        assertThat(profile.zipf()).isEqualTo(0.99);
+        assertThat(profile.chargeWeight()).isEqualTo(40);
+        assertThat(profile.useWeight()).isEqualTo(20);
+        assertThat(profile.readWeight()).isEqualTo(40);
+        assertThat(profile.minAmount()).isEqualTo(1L);
+        assertThat(profile.maxAmount()).isEqualTo(1000L);
+        assertThat(profile.workers()).isEqualTo(500);
+        assertThat(profile.reportInterval()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(profile.drainTimeout()).isEqualTo(Duration.ofSeconds(120));
+        assertThat(profile.histogramLog()).isNull();
+    }
+
+    @DisplayName("key=value, --key=value 형식의 인자를 읽어야 한다.")
+    @Test
+    void parseArguments() {
+        LoadProfile profile = LoadProfile.parse(new String[]{
+                "target=http", "--rate=250.5", "arrival=uniform", "users=10", "zipf=0", "mix=1:2:3", "amount=10-20"
+        });
+
+        assertThat(profile.target()).isEqualTo(LoadProfile.Target.HTTP);
+        assertThat(profile.rate()).isEqualTo(250.5);
+        assertThat(profile.arrival()).isEqualTo(LoadProfile.Arrival.UNIFORM);
+        assertThat(profile.users()).isEqualTo(10);
+        assertThat(profile.zipf()).isZero();
+        assertThat(profile.chargeWeight()).isEqualTo(1);
+        assertThat(profile.useWeight()).isEqualTo(2);
+        assertThat(profile.readWeight()).isEqualTo(3);
+        assertThat(profile.minAmount()).isEqualTo(10L);
+        assertThat(profile.maxAmount()).isEqualTo(20L);
+    }
+
+    @DisplayName("알 수 없는 인자이거나 key=value 형식이 아니면 예외가 발생해야 한다.")
+    @Test
+    void parseUnknownKey() {
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"foo=1"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"rate"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("mix 는 charge:use:read 형식이고 합이 0 보다 커야 한다.")
+    @Test
+    void parseInvalidMix() {
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"mix=1:2"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"mix=0:0:0"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"mix=-1:1:1"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("amount 는 min-max 형식이고 0 < min <= max 이어야 한다.")
+    @Test
+    void parseInvalidAmount() {
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"amount=10"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"amount=0-10"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"amount=20-10"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("users, duration, reportInterval, drainTimeout 은 0 보다 크고 warmup 은 0 이상이어야 한다.")
+    @Test
+    void parseInvalidRange() {
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"users=0"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("users");
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"duration=0"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("duration");
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"warmup=-1"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("warmup");
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"reportInterval=0"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("reportInterval");
+        assertThatThrownBy(() -> LoadProfile.parse(new String[]{"drainTimeout=0"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("drainTimeout");
+        assertThat(LoadProfile.parse(new String[]{"warmup=0"}).warmup()).isZero();
+    }
+
+    @DisplayName("요청 종류는 mix 비율의 경계에 따라 선택되어야 한다.")
+    @Test
+    void pickOperationBoundaries() {
+        LoadProfile profile = LoadProfile.parse(new String[]{"mix=1:1:2"});
+
+        assertThat(profile.pickOperation(0.0)).isEqualTo(Operation.CHARGE);
+        assertThat(profile.pickOperation(Math.nextDown(0.25))).isEqualTo(Operation.CHARGE);
+        assertThat(profile.pickOperation(0.25)).isEqualTo(Operation.USE);
+        assertThat(profile.pickOperation(Math.nextDown(0.5))).isEqualTo(Operation.USE);
+        assertThat(profile.pickOperation(0.5)).isEqualTo(Operation.READ);
+        assertThat(profile.pickOperation(Math.nextDown(1.0))).isEqualTo(Operation.READ);
+    }
+
+    @DisplayName("비율이 0 인 요청 종류는 선택되지 않아야 한다.")
+    @Test
+    void pickOperationWithZeroWeight() {
+        LoadProfile profile = LoadProfile.parse(new String[]{"mix=0:1:0"});
+
+        assertThat(profile.pickOperation(0.0)).isEqualTo(Operation.USE);
+        assertThat(profile.pickOperation(Math.nextDown(1.0))).isEqualTo(Operation.USE);
+    }
+}
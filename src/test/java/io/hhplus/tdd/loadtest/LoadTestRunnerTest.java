@@ -0,0 +1,120 @@
+package io.hhplus.tdd.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestRunnerTest {
+
+    @DisplayName("처리량보다 많은 요청을 보내면 큐 대기 시간까지 응답시간에 포함되어야 한다. (coordinated omission 보정)")
+    @Test
+    void responseTimeIncludesQueueWait() throws InterruptedException {
+        // 100ms 걸리는 요청을 워커 1개로 초당 20건 보낸다. (처리량은 초당 10건)
+        // k 번째 요청은 50k ms 에 의도되고 100(k+1) ms 쯤 끝나므로, 응답시간은 50k + 100 ms 로 점점 늘어난다.
+        SleepingPointTarget target = new SleepingPointTarget(100);
+        LoadProfile profile = LoadProfile.parse(new String[]{
+                "rate=20", "arrival=uniform", "warmup=1", "duration=1", "workers=1", "users=1", "mix=1:0:0",
+                "reportInterval=1", "drainTimeout=30"
+        });
+        LoadTestRunner sut = new LoadTestRunner(profile, target);
+
+        boolean completed = sut.run();
+
+        Histogram responseTime = sut.stats(Operation.CHARGE).responseTime();
+        Histogram serviceTime = sut.stats(Operation.CHARGE).serviceTime();
+        assertThat(completed).isTrue();
+        assertThat(target.calls()).isEqualTo(40);
+        assertThat(sut.stats(Operation.CHARGE).succeeded()).isEqualTo(20L);
+        assertThat(serviceTime.getMaxValue())
+                .as("서비스 시간은 요청 하나의 처리 시간이어야 한다.")
+                .isLessThan(TimeUnit.MILLISECONDS.toMicros(600));
+        assertThat(responseTime.getMinValue())
+                .as("응답시간은 큐에서 기다린 시간까지 포함해야 한다.")
+                .isGreaterThan(TimeUnit.MILLISECONDS.toMicros(800));
+    }
+
+    @DisplayName("워밍업 구간에 의도된 요청은 결과에 기록되지 않아야 한다.")
+    @Test
+    void warmupRequestsAreNotRecorded() throws InterruptedException {
+        SleepingPointTarget target = new SleepingPointTarget(0);
+        LoadProfile profile = LoadProfile.parse(new String[]{
+                "rate=10", "arrival=uniform", "warmup=1", "duration=1", "workers=2", "users=1", "mix=0:0:1",
+                "reportInterval=1", "drainTimeout=30"
+        });
+        LoadTestRunner sut = new LoadTestRunner(profile, target);
+
+        sut.run();
+
+        assertThat(target.calls()).isEqualTo(20);
+        assertThat(sut.stats(Operation.READ).responseTime().getTotalCount()).isEqualTo(10L);
+        assertThat(sut.stats(Operation.READ).serviceTime().getTotalCount()).isEqualTo(10L);
+        assertThat(sut.stats(Operation.READ).succeeded()).isEqualTo(10L);
+    }
+
+    @DisplayName("drainTimeout 안에 끝나지 않은 요청이 있으면 run() 은 false 를 반환해야 한다.")
+    @Test
+    void runReturnsFalseWhenDrainTimesOut() throws InterruptedException {
+        SleepingPointTarget target = new SleepingPointTarget(5_000);
+        LoadProfile profile = LoadProfile.parse(new String[]{
+                "rate=2", "arrival=uniform", "warmup=0", "duration=1", "workers=1", "users=1", "mix=1:0:0",
+                "reportInterval=1", "drainTimeout=1"
+        });
+        LoadTestRunner sut = new LoadTestRunner(profile, target);
+
+        boolean completed = sut.run();
+
+        assertThat(completed).isFalse();
+    }
+
+    /**
+     * 모든 요청을 정해진 시간만큼 기다렸다가 성공으로 응답한다.
+     */
+    private static class SleepingPointTarget implements PointTarget {
+
+        private final long sleepMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        SleepingPointTarget(long sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public boolean charge(long userId, long amount) {
+            return handle();
+        }
+
+        @Override
+        public boolean use(long userId, long amount) {
+            return handle();
+        }
+
+        @Override
+        public boolean read(long userId) {
+            return handle();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        private boolean handle() {
+            calls.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(sleepMillis);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
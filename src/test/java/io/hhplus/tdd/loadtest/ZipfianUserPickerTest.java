@@ -0,0 +1,75 @@
+package io.hhplus.tdd.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfianUserPickerTest {
+
+    private static final int SAMPLE_COUNT = 100_000;
+
+    @DisplayName("exponent 가 0 이면 모든 userId 가 같은 확률로 선택되어야 한다.")
+    @Test
+    void uniformWhenExponentIsZero() {
+        ZipfianUserPicker sut = new ZipfianUserPicker(4, 0.0);
+
+        assertThat(sut.pick(0.1)).isEqualTo(1L);
+        assertThat(sut.pick(0.3)).isEqualTo(2L);
+        assertThat(sut.pick(0.6)).isEqualTo(3L);
+        assertThat(sut.pick(0.9)).isEqualTo(4L);
+
+        long[] counts = sample(sut, 4);
+        for (int userId = 1; userId <= 4; userId++) {
+            assertThat((double) counts[userId] / SAMPLE_COUNT)
+                    .as("userId=%d 의 비율", userId)
+                    .isCloseTo(0.25, within(0.02));
+        }
+    }
+
+    @DisplayName("exponent 가 1 이면 userId=1 이 1/H(n) 확률로 선택되어야 한다. (hot user)")
+    @Test
+    void hotUserSkew() {
+        ZipfianUserPicker sut = new ZipfianUserPicker(100, 1.0);
+
+        // H(100) = 5.187..., userId=1 의 확률 0.1927..., userId=2 까지 누적 0.2891...
+        assertThat(sut.pick(0.19)).isEqualTo(1L);
+        assertThat(sut.pick(0.20)).isEqualTo(2L);
+        assertThat(sut.pick(0.28)).isEqualTo(2L);
+
+        long[] counts = sample(sut, 100);
+        assertThat((double) counts[1] / SAMPLE_COUNT).isCloseTo(0.1928, within(0.01));
+        assertThat(counts[1]).isGreaterThan(counts[2]).isGreaterThan(counts[100] * 20);
+    }
+
+    @DisplayName("선택된 userId 는 항상 1 ~ userCount 범위 안에 있어야 한다.")
+    @Test
+    void pickWithinRange() {
+        ZipfianUserPicker sut = new ZipfianUserPicker(10, 1.2);
+
+        assertThat(sut.pick(0.0)).isEqualTo(1L);
+        assertThat(sut.pick(Math.nextDown(1.0))).isEqualTo(10L);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            assertThat(sut.next()).isBetween(1L, 10L);
+        }
+    }
+
+    @DisplayName("userCount 가 1 미만이거나 exponent 가 음수이면 예외가 발생해야 한다.")
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> new ZipfianUserPicker(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfianUserPicker(10, -0.1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long[] sample(ZipfianUserPicker sut, int userCount) {
+        long[] counts = new long[userCount + 1];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            counts[(int) sut.next()]++;
+        }
+        return counts;
+    }
+}
@@ -2,12 +2,17 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.audit.PointAuditLog;
+import io.hhplus.tdd.point.audit.PointAuditProperties;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -20,11 +25,16 @@ class DefaultPointServiceTest {
 
     private PointHistoryTable pointHistoryTable;
 
+    private PointAuditLog auditLog;
+
     @BeforeEach
     void setUp() {
         userPointTable = mock(UserPointTable.class);
         pointHistoryTable = mock(PointHistoryTable.class);
-        sut = new DefaultPointService(userPointTable, pointHistoryTable);
+        // PointAuditLog 는 mock 으로 만들지 않는다.
+        // mockito inline mock maker 가 클래스를 재정의하면 같은 JVM 의 PointAuditLogTest 할당 측정이 틀어진다.
+        auditLog = new PointAuditLog(new PointAuditProperties(16, new PointAuditProperties.Sampling(1.0, 1.0)));
+        sut = new DefaultPointService(userPointTable, pointHistoryTable, auditLog);
     }
 
     @Test
@@ -56,4 +66,66 @@ class DefaultPointServiceTest {
         assertThat(result).isEqualTo(pointHistoryList);
     }
 
+    @DisplayName("잔액이 부족해서 사용에 실패하면 실패 이벤트와 Lock 해제 이벤트를 기록하고 예외를 그대로 던져야 한다.")
+    @Test
+    void useFailed_recordsFailedAndLockReleased() {
+        long userId = 1L;
+        long amount = 1000L;
+
+        when(userPointTable.selectById(anyLong()))
+                .thenReturn(new UserPoint(userId, 100, 0));
+
+        assertThatThrownBy(() -> sut.use(userId, amount))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+
+        assertThat(drainAuditEvents()).containsExactly(
+                "LOCK_REQUESTED:USE:1:1000",
+                "LOCK_ACQUIRED:USE:1:1000",
+                "FAILED:USE:1:1000",
+                "LOCK_RELEASED:USE:1:1000"
+        );
+    }
+
+    @DisplayName("Lock 추적이 샘플링되지 않은 호출은 Lock 이벤트를 기록하지 않고, 실패 이벤트는 별도 비율로 기록해야 한다.")
+    @Test
+    void useFailed_lockTraceNotSampled() {
+        long userId = 1L;
+        long amount = 1000L;
+        auditLog = new PointAuditLog(new PointAuditProperties(16, new PointAuditProperties.Sampling(0.0, 1.0)));
+        sut = new DefaultPointService(userPointTable, pointHistoryTable, auditLog);
+
+        when(userPointTable.selectById(anyLong()))
+                .thenReturn(new UserPoint(userId, 100, 0));
+
+        assertThatThrownBy(() -> sut.use(userId, amount))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(drainAuditEvents()).containsExactly("FAILED:USE:1:1000");
+    }
+
+    @DisplayName("Lock 추적이 샘플링된 호출은 Lock 요청/획득/해제 이벤트를 모두 기록해야 한다.")
+    @Test
+    void charge_lockTraceSampled() {
+        long userId = 1L;
+        long amount = 1000L;
+
+        when(userPointTable.selectById(anyLong()))
+                .thenReturn(new UserPoint(userId, 0, 0));
+
+        sut.charge(userId, amount);
+
+        assertThat(drainAuditEvents()).containsExactly(
+                "LOCK_REQUESTED:CHARGE:1:1000",
+                "LOCK_ACQUIRED:CHARGE:1:1000",
+                "LOCK_RELEASED:CHARGE:1:1000"
+        );
+    }
+
+    private List<String> drainAuditEvents() {
+        List<String> events = new ArrayList<>();
+        auditLog.drain((event, type, userId, amount, timestampMillis) ->
+                events.add(event + ":" + type + ":" + userId + ":" + amount));
+        return events;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package io.hhplus.tdd.point.audit;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.sun.management.ThreadMXBean;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointAuditLogTest {
+
+    private static final PointAuditProperties.Sampling ALWAYS = new PointAuditProperties.Sampling(1.0, 1.0);
+    private static final PointAuditSink DISCARD = (event, type, userId, amount, timestampMillis) -> {};
+    private static final int TIMES = 10_000;
+
+    @DisplayName("기록한 이벤트는 기록한 순서대로 sink 에 전달되어야 한다.")
+    @Test
+    void drainInOrder() {
+        PointAuditLog sut = new PointAuditLog(new PointAuditProperties(16, ALWAYS));
+        sut.record(PointAuditEvent.LOCK_REQUESTED, TransactionType.CHARGE, 1L, 100L);
+        sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.CHARGE, 1L, 100L);
+        sut.record(PointAuditEvent.FAILED, TransactionType.USE, 2L, 200L);
+
+        List<String> written = new ArrayList<>();
+        int count = sut.drain((event, type, userId, amount, timestampMillis) ->
+                written.add(event + ":" + type + ":" + userId + ":" + amount));
+
+        assertThat(count).isEqualTo(3);
+        assertThat(written).containsExactly(
+                "LOCK_REQUESTED:CHARGE:1:100",
+                "LOCK_ACQUIRED:CHARGE:1:100",
+                "FAILED:USE:2:200"
+        );
+        assertThat(sut.drain(DISCARD)).isZero();
+    }
+
+    @DisplayName("샘플링 비율이 0 이면 샘플링되지 않고, 1 이면 항상 샘플링되어야 한다.")
+    @Test
+    void sampleByRate() {
+        PointAuditLog sut = new PointAuditLog(new PointAuditProperties(16, new PointAuditProperties.Sampling(0.0, 1.0)));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.sample(PointAuditEvent.LOCK_REQUESTED)).isFalse();
+            assertThat(sut.sample(PointAuditEvent.LOCK_ACQUIRED)).isFalse();
+            assertThat(sut.sample(PointAuditEvent.LOCK_RELEASED)).isFalse();
+            assertThat(sut.sample(PointAuditEvent.FAILED)).isTrue();
+        }
+    }
+
+    @DisplayName("버퍼가 가득 차면 요청 스레드를 막지 않고 이벤트를 버려야 한다.")
+    @Test
+    void dropWhenFull() {
+        PointAuditLog sut = new PointAuditLog(new PointAuditProperties(4, ALWAYS));
+        for (int i = 0; i < 6; i++) {
+            sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.CHARGE, 1L, i);
+        }
+
+        List<Long> written = new ArrayList<>();
+        sut.drain((event, type, userId, amount, timestampMillis) -> written.add(amount));
+
+        assertThat(written).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(sut.droppedCount()).isEqualTo(2L);
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 중복 없이 스레드별 순서대로 전달되고, 전달 + 유실 = 기록 이어야 한다.")
+    @Test
+    void recordConcurrently() throws InterruptedException {
+        int producerCount = 4;
+        int recordCount = 100_000;
+        PointAuditLog sut = new PointAuditLog(new PointAuditProperties(1024, ALWAYS));
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(producerCount);
+
+        for (int producer = 0; producer < producerCount; producer++) {
+            long userId = producer;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (long i = 0; i < recordCount; i++) {
+                        sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.CHARGE, userId, i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long[] lastAmountByProducer = new long[producerCount];
+        Arrays.fill(lastAmountByProducer, -1L);
+        long[] drained = new long[1];
+        List<String> violations = new ArrayList<>();
+        PointAuditSink sink = (event, type, userId, amount, timestampMillis) -> {
+            int producer = (int) userId;
+            if (amount <= lastAmountByProducer[producer]) {
+                violations.add("producer=" + producer + ", prev=" + lastAmountByProducer[producer] + ", amount=" + amount);
+            }
+            lastAmountByProducer[producer] = amount;
+            drained[0]++;
+        };
+
+        start.countDown();
+        while (done.getCount() > 0) {
+            sut.drain(sink);
+        }
+        sut.drain(sink);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(violations).as("중복되거나 순서가 뒤바뀐 이벤트").isEmpty();
+        assertThat(drained[0] + sut.droppedCount()).isEqualTo((long) producerCount * recordCount);
+        assertThat(drained[0]).isPositive();
+    }
+
+    @DisplayName("stop() 을 호출하면 남아있는 이벤트를 모두 로그로 남겨야 한다.")
+    @Test
+    void stopFlushesRemainingEvents() throws InterruptedException {
+        Logger logger = (Logger) LoggerFactory.getLogger(PointAuditLog.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            PointAuditLog sut = new PointAuditLog(new PointAuditProperties(16, ALWAYS));
+            sut.start();
+            for (long i = 0; i < 10; i++) {
+                sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.USE, 7L, i);
+            }
+            sut.stop();
+
+            assertThat(appender.list)
+                    .extracting(ILoggingEvent::getFormattedMessage)
+                    .filteredOn(message -> message.contains("userId=7"))
+                    .hasSize(10);
+            assertThat(sut.drain(DISCARD)).isZero();
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @DisplayName("capacity 가 범위를 벗어나거나 샘플링 비율이 0 ~ 1 이 아니면 예외가 발생해야 한다.")
+    @Test
+    void invalidProperties() {
+        assertThatThrownBy(() -> new PointAuditProperties(0, ALWAYS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointAuditProperties((1 << 30) + 1, ALWAYS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointAuditProperties.Sampling(-0.1, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointAuditProperties.Sampling(0.01, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointAuditProperties.Sampling(Double.NaN, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("이벤트 기록은 객체를 할당하지 않아야 한다.")
+    @Test
+    void recordWithoutAllocation() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        PointAuditLog sut = new PointAuditLog(new PointAuditProperties(1 << 16, ALWAYS));
+        for (int warmUp = 0; warmUp < 5; warmUp++) {
+            for (int i = 0; i < TIMES; i++) {
+                sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.CHARGE, 1_000L + i, i);
+            }
+            sut.drain(DISCARD);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < TIMES; i++) {
+            sut.record(PointAuditEvent.LOCK_ACQUIRED, TransactionType.CHARGE, 1_000L + i, i);
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // 측정 자체의 오차만 허용한다. 이벤트당 1바이트 미만
+        assertThat(allocated).isLessThan(TIMES);
+    }
+}